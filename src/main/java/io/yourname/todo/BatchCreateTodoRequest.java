@@ -0,0 +1,24 @@
+package io.yourname.todo;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for creating many Todo items in one request.
+ * Every entry is validated like a single CreateTodoRequest; the batch is all-or-nothing.
+ */
+public class BatchCreateTodoRequest {
+
+    @NotEmpty(message = "todos must contain at least one item")
+    @Size(max = 100_000, message = "At most 100000 items per batch")
+    private List<@NotNull @Valid CreateTodoRequest> todos;
+
+    public BatchCreateTodoRequest() {}
+
+    public List<CreateTodoRequest> getTodos() { return todos; }
+    public void setTodos(List<CreateTodoRequest> todos) { this.todos = todos; }
+}
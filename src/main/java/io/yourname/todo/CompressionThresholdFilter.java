@@ -0,0 +1,195 @@
+package io.yourname.todo;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Makes server.compression.min-response-size apply to streamed bodies (Jackson flushes and commits
+ * before Tomcat knows the length, so it would gzip even tiny responses).
+ * - Holds up to min-response-size bytes and swallows flushes meanwhile.
+ * - Body ends below the threshold: sent with Content-Length, so Tomcat leaves it uncompressed.
+ * - Body grows past it: buffered bytes go out and the rest streams (and gets gzipped) as before.
+ */
+@Component
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int minSize;
+
+    public CompressionThresholdFilter(@Value("${server.compression.enabled:false}") boolean enabled,
+                                      @Value("${server.compression.min-response-size:2KB}") DataSize minSize) {
+        this.enabled = enabled;
+        this.minSize = (int) minSize.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // nothing to decide if compression is off or the client can't take gzip anyway
+        if (!enabled || minSize <= 0) return true;
+        String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return accept == null || !accept.contains("gzip");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ThresholdResponse wrapped = new ThresholdResponse(response, minSize);
+        try {
+            chain.doFilter(request, wrapped);
+        } finally {
+            // never drop buffered bytes: an async body keeps writing after we return, so it just streams
+            if (request.isAsyncStarted()) wrapped.stream();
+            else wrapped.finish();
+        }
+    }
+
+    private static final class ThresholdResponse extends HttpServletResponseWrapper {
+        private final ThresholdOutputStream out;
+        private PrintWriter writer;
+
+        ThresholdResponse(HttpServletResponse response, int minSize) {
+            super(response);
+            this.out = new ThresholdOutputStream(response, minSize);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) writer = new PrintWriter(new OutputStreamWriter(out, Charset.forName(getCharacterEncoding())));
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) writer.flush();
+            out.flush();
+        }
+
+        @Override
+        public void resetBuffer() {
+            out.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            out.reset();
+            super.reset();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) writer.flush();
+            out.finish();
+        }
+
+        void stream() throws IOException {
+            if (writer != null) writer.flush();
+            out.stream();
+        }
+    }
+
+    private static final class ThresholdOutputStream extends ServletOutputStream {
+        private final HttpServletResponse response;
+        private final byte[] buffer;
+        private int count;
+        private ServletOutputStream target; // set once the body is known to be at least minSize
+
+        ThresholdOutputStream(HttpServletResponse response, int minSize) {
+            this.response = response;
+            this.buffer = new byte[minSize];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (target == null && count == buffer.length) startStreaming();
+            if (target != null) target.write(b);
+            else buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null && count + len > buffer.length) startStreaming();
+            if (target != null) {
+                target.write(b, off, len);
+            } else {
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) target.flush(); // while buffering, a flush would commit before the size is known
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        void reset() {
+            if (target == null) count = 0;
+        }
+
+        void finish() throws IOException {
+            if (target != null) {
+                target.flush();
+                return;
+            }
+            if (count == 0) return;
+            if (!response.isCommitted()) response.setContentLength(count);
+            target = response.getOutputStream();
+            target.write(buffer, 0, count);
+            target.flush();
+        }
+
+        // stop buffering: write what we have (no Content-Length) and pass everything else through
+        void stream() throws IOException {
+            if (target == null) startStreaming();
+        }
+
+        private void startStreaming() throws IOException {
+            target = response.getOutputStream();
+            target.write(buffer, 0, count);
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return response.getOutputStream().isReady();
+            } catch (IOException ex) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            // non-blocking writers can't wait for the threshold; hand over buffered bytes first, then pass through
+            try {
+                stream();
+                target.setWriteListener(listener);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package io.yourname.todo;
 
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -14,7 +13,7 @@ public class CreateTodoRequest {
     private String name;
 
     @NotBlank(message = "Deadline is required; use DD-MM-YYYY")
-    @Pattern(regexp = "\\d{2}-\\d{2}-\\d{4}", message = "Use DD-MM-YYYY")
+    @ValidDeadline(message = "Use DD-MM-YYYY and a real date")
     private String deadline;
 
     public CreateTodoRequest() {}
@@ -1,27 +1,61 @@
 package io.yourname.todo;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import jakarta.validation.ConstraintViolationException;
+import java.util.stream.Collectors;
 
+/**
+ * Error bodies are always plain text, so set the content type explicitly;
+ * otherwise a Smile client would get text labelled as application/x-jackson-smile.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> badArg(IllegalArgumentException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        return badRequest(ex.getMessage());
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<String> validation(ConstraintViolationException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        return badRequest(ex.getMessage());
+    }
+
+    // @Valid request bodies (e.g. @ValidDeadline on the DTOs)
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<String> invalidBody(MethodArgumentNotValidException ex) {
+        String msg = ex.getBindingResult().getFieldErrors().stream()
+                .map(e -> e.getField() + ": " + e.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+        return badRequest(msg);
+    }
+
+    // query/path parameters that don't convert (e.g. ?asOf=abc)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<String> badParam(MethodArgumentTypeMismatchException ex) {
+        return badRequest("Invalid value for " + ex.getName() + ": " + ex.getValue());
+    }
+
+    // malformed JSON/Smile request bodies
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<String> unreadableBody(HttpMessageNotReadableException ex) {
+        return badRequest("Malformed request body");
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> serverErr(Exception ex) {
         ex.printStackTrace(); // log for debugging
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Internal server error");
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN).body("Internal server error");
+    }
+
+    private static ResponseEntity<String> badRequest(String body) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.TEXT_PLAIN).body(body);
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package io.yourname.todo;
+
+/**
+ * Hand-written parsers for user input (deadlines, ids, sort options).
+ * - Never throw and never allocate, so floods of bad input stay cheap.
+ * - Deadlines are DD-MM-YYYY and must be a real calendar date.
+ */
+public final class InputParser {
+
+    /** Returned by {@link #parseDeadline} when the text is not shaped like DD-MM-YYYY. */
+    public static final int INVALID_FORMAT = Integer.MIN_VALUE;
+    /** Returned by {@link #parseDeadline} when the text is DD-MM-YYYY but not a real date (e.g. 31-02-2025). */
+    public static final int INVALID_DATE = Integer.MIN_VALUE + 1;
+    /** Returned by {@link #parseInt} when the text is not a valid int. */
+    public static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    // LocalDate.of(0, 1, 1).toEpochDay() is -719528; anything below that is an error code
+    private static final int DAYS_0000_TO_1970 = 719_528;
+
+    private InputParser() {}
+
+    /**
+     * Parses a DD-MM-YYYY deadline into its epoch day (same value as LocalDate.toEpochDay()).
+     * Returns {@link #INVALID_FORMAT} or {@link #INVALID_DATE} instead of throwing.
+     */
+    public static int parseDeadline(CharSequence s) {
+        if (s == null || s.length() != 10 || s.charAt(2) != '-' || s.charAt(5) != '-') return INVALID_FORMAT;
+        int day = digits(s, 0, 2);
+        int month = digits(s, 3, 5);
+        int year = digits(s, 6, 10);
+        if (day < 0 || month < 0 || year < 0) return INVALID_FORMAT;
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) return INVALID_DATE;
+        return toEpochDay(year, month, day);
+    }
+
+    public static boolean isError(int epochDayOrError) {
+        return epochDayOrError == INVALID_FORMAT || epochDayOrError == INVALID_DATE;
+    }
+
+    public static boolean isValidDeadline(CharSequence s) {
+        return !isError(parseDeadline(s));
+    }
+
+    /**
+     * Parses an optionally signed decimal int. Returns {@link #NOT_A_NUMBER} on
+     * empty input, stray characters or overflow; otherwise the value (within int range).
+     */
+    public static long parseInt(CharSequence s) {
+        if (s == null) return NOT_A_NUMBER;
+        int len = s.length();
+        int i = 0;
+        boolean negative = false;
+        if (len > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            negative = s.charAt(0) == '-';
+            i = 1;
+        }
+        if (i == len) return NOT_A_NUMBER;
+        while (i < len - 1 && s.charAt(i) == '0') i++; // leading zeros don't count toward the 10-digit limit
+        if (len - i > 10) return NOT_A_NUMBER;
+        long value = 0;
+        for (; i < len; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) return NOT_A_NUMBER;
+            value = value * 10 + d;
+        }
+        if (negative) value = -value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? NOT_A_NUMBER : value;
+    }
+
+    // reads s[from, to) as an unsigned decimal, -1 if any char is not a digit
+    private static int digits(CharSequence s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) return -1;
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    // same arithmetic as LocalDate.toEpochDay(), restricted to years 0..9999
+    private static int toEpochDay(int year, int month, int day) {
+        int total = 365 * year;
+        total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) total--;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
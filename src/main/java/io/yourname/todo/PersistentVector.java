@@ -0,0 +1,97 @@
+package io.yourname.todo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable vector backed by a 32-way trie (same layout as Clojure's PersistentVector, without the tail).
+ * - set/append copy only the path to the touched slot, so older versions share every other node.
+ * - get is O(log32 n); from(List) builds the trie bottom-up in O(n).
+ */
+final class PersistentVector<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, new Object[WIDTH]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+
+    private PersistentVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    static <T> PersistentVector<T> from(List<T> values) {
+        if (values.isEmpty()) return empty();
+        List<Object[]> level = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += WIDTH) {
+            Object[] leaf = new Object[WIDTH];
+            for (int j = 0; j < WIDTH && i + j < values.size(); j++) leaf[j] = values.get(i + j);
+            level.add(leaf);
+        }
+        int shift = 0;
+        while (level.size() > 1) {
+            List<Object[]> parents = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += WIDTH) {
+                Object[] node = new Object[WIDTH];
+                for (int j = 0; j < WIDTH && i + j < level.size(); j++) node[j] = level.get(i + j);
+                parents.add(node);
+            }
+            level = parents;
+            shift += BITS;
+        }
+        return new PersistentVector<>(values.size(), shift, level.get(0));
+    }
+
+    int size() { return size; }
+
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) node = (Object[]) node[(index >>> level) & MASK];
+        return (T) node[index & MASK];
+    }
+
+    PersistentVector<T> set(int index, T value) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, value));
+    }
+
+    PersistentVector<T> append(T value) {
+        if (size == 1 << (shift + BITS)) {
+            // root is full: grow one level, old root becomes the first child
+            Object[] newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            return new PersistentVector<>(size + 1, shift + BITS, assoc(shift + BITS, newRoot, size, value));
+        }
+        return new PersistentVector<>(size + 1, shift, assoc(shift, root, size, value));
+    }
+
+    List<T> toList() {
+        List<T> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) out.add(get(i));
+        return out;
+    }
+
+    // copies the path down to index; missing nodes (past the old end) are created
+    private static Object[] assoc(int level, Object[] node, int index, Object value) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int sub = (index >>> level) & MASK;
+            copy[sub] = assoc(level - BITS, (Object[]) copy[sub], index, value);
+        }
+        return copy;
+    }
+}
@@ -6,14 +6,14 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.net.URI;
-import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * Single consolidated controller:
- * - Structured REST endpoints under /api/todos
+ * - Structured REST endpoints under /api/todos (GET /api/todos?asOf=<version> reads a past snapshot)
  * - Console-style single-line command endpoint under /api/console (plain text)
+ * - JSON by default; every JSON endpoint also speaks Smile (application/x-jackson-smile) when asked via Accept/Content-Type
  *
  * This version is written to avoid multi-catch duplication and Java syntax pitfalls.
  */
@@ -21,6 +21,8 @@ import java.util.stream.Collectors;
 @RequestMapping("/api")
 public class TodoController {
 
+    static final String VERSION_HEADER = "X-Todo-Version";
+
     private final TodoService service;
 
     public TodoController(TodoService service) {
@@ -29,8 +31,13 @@ public class TodoController {
 
     // Structured REST API
     @GetMapping("/todos")
-    public List<TodoItem> list() {
-        return service.list();
+    public ResponseEntity<List<TodoItem>> list(@RequestParam(required = false) Long asOf) {
+        TodoSnapshot s = asOf == null ? service.snapshot() : service.snapshotAt(asOf);
+        if (s == null) {
+            // older than the retained history
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+        return ResponseEntity.ok().header(VERSION_HEADER, String.valueOf(s.getVersion())).body(s.items());
     }
 
     @PostMapping("/todos")
@@ -39,12 +46,23 @@ public class TodoController {
         return ResponseEntity.created(URI.create("/api/todos/" + created.getId())).body(created);
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<List<TodoItem>> createBatch(@Valid @RequestBody BatchCreateTodoRequest req) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.addAll(req.getTodos()));
+    }
+
     @GetMapping("/todos/{id}")
     public ResponseEntity<TodoItem> get(@PathVariable int id) {
         TodoItem t = service.get(id);
         return t == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(t);
     }
 
+    @GetMapping("/todos/{id}/history")
+    public ResponseEntity<List<TodoItem>> history(@PathVariable int id) {
+        List<TodoItem> versions = service.history(id);
+        return versions.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(versions);
+    }
+
     @DeleteMapping("/todos/{id}")
     public ResponseEntity<Void> delete(@PathVariable int id) {
         TodoItem t = service.delete(id);
@@ -103,14 +121,16 @@ public class TodoController {
             } else if ("delete".equals(cmd)) {
                 String idS = args.get("id");
                 if (idS == null) return bad("delete needs id. Example: delete|id=1");
-                int id = Integer.parseInt(idS);
+                Integer id = intArg(idS);
+                if (id == null) return invalidNumber();
                 TodoItem t = service.delete(id);
                 return t == null ? notFound("Task not found for id=" + id) : ok("Removed: " + t.getName());
 
             } else if ("edit".equals(cmd)) {
                 String idS = args.get("id");
                 if (idS == null) return bad("edit needs id. Example: edit|id=1|name=New name|deadline=20-11-2025");
-                int id = Integer.parseInt(idS);
+                Integer id = intArg(idS);
+                if (id == null) return invalidNumber();
                 String name = args.get("name");
                 String deadline = args.get("deadline");
                 TodoItem t = service.edit(id, name, deadline);
@@ -119,14 +139,16 @@ public class TodoController {
             } else if ("toggle".equals(cmd)) {
                 String idS = args.get("id");
                 if (idS == null) return bad("toggle needs id. Example: toggle|id=1");
-                int id = Integer.parseInt(idS);
+                Integer id = intArg(idS);
+                if (id == null) return invalidNumber();
                 TodoItem t = service.toggle(id);
                 return t == null ? notFound("Task not found for id=" + id) : ok("Toggled: #" + id + " now " + (t.isCompleted() ? "completed" : "not completed"));
 
             } else if ("sort".equals(cmd)) {
                 String optionS = args.get("option");
                 if (optionS == null) return bad("sort needs option. Example: sort|option=1");
-                int opt = Integer.parseInt(optionS);
+                Integer opt = intArg(optionS);
+                if (opt == null) return invalidNumber();
                 service.sortByOption(opt);
                 return ok("Sort applied.");
 
@@ -149,13 +171,8 @@ public class TodoController {
                 return bad("Unknown command. Type help");
             }
 
-        } catch (NumberFormatException ex) {
-            // numeric parsing errors (bad id/option values)
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .contentType(MediaType.TEXT_PLAIN)
-                    .body("Error: Invalid number format in command arguments.");
-        } catch (IllegalArgumentException | java.time.format.DateTimeParseException ex) {
-            // validation / date parsing / other input errors
+        } catch (IllegalArgumentException ex) {
+            // validation / other input errors
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .contentType(MediaType.TEXT_PLAIN)
                     .body("Error: " + (ex.getMessage() == null ? ex.toString() : ex.getMessage()));
@@ -181,7 +198,7 @@ public class TodoController {
         // fallback: if command doesn’t start with a keyword but looks like "taskname date"
         if (!List.of("add","delete","edit","toggle","sort","list","help").contains(cmd)) {
             String[] tokens = trimmed.split("\\s+");
-            if (tokens.length >= 2 && tokens[tokens.length - 1].matches("\\d{2}-\\d{2}-\\d{4}")) {
+            if (tokens.length >= 2 && InputParser.parseDeadline(tokens[tokens.length - 1]) != InputParser.INVALID_FORMAT) {
                 cmd = "add";
                 args.put("name", String.join(" ", Arrays.copyOf(tokens, tokens.length - 1)));
                 args.put("deadline", tokens[tokens.length - 1]);
@@ -210,6 +227,12 @@ public class TodoController {
         }
     }
 
+    // numeric argument via InputParser; null when it isn't a valid int
+    private static Integer intArg(String s) {
+        long n = InputParser.parseInt(s);
+        return n == InputParser.NOT_A_NUMBER ? null : (int) n;
+    }
+
     // response helpers
     private ResponseEntity<String> ok(String s) {
         return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(s);
@@ -223,6 +246,13 @@ public class TodoController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.TEXT_PLAIN).body(s);
     }
 
+    // numeric parsing errors (bad id/option values)
+    private ResponseEntity<String> invalidNumber() {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("Error: Invalid number format in command arguments.");
+    }
+
     private String helpText() {
         return String.join("\n",
                 "Usage:",
@@ -1,23 +1,27 @@
 package io.yourname.todo;
 
-public class TodoItem {
+/**
+ * Immutable item state; every edit/toggle creates a new instance.
+ * version is the store version that wrote this state.
+ */
+public final class TodoItem {
     private final int id;
-    private String name;
-    private String deadline; // dd-MM-uuuu
-    private boolean completed;
+    private final String name;
+    private final String deadline; // dd-MM-uuuu
+    private final boolean completed;
+    private final long version;
 
-    public TodoItem(int id, String name, String deadline, boolean completed) {
+    public TodoItem(int id, String name, String deadline, boolean completed, long version) {
         this.id = id;
         this.name = name;
         this.deadline = deadline;
         this.completed = completed;
+        this.version = version;
     }
 
     public int getId() { return id; }
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
     public String getDeadline() { return deadline; }
-    public void setDeadline(String deadline) { this.deadline = deadline; }
     public boolean isCompleted() { return completed; }
-    public void setCompleted(boolean completed) { this.completed = completed; }
-}
\ No newline at end of file
+    public long getVersion() { return version; }
+}
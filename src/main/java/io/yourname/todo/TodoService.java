@@ -1,31 +1,33 @@
 package io.yourname.todo;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Versioned in-memory store.
+ * - Writers are serialized (synchronized) and publish a new immutable TodoSnapshot per change.
+ * - Readers never lock: they read the current snapshot or one from the retained history.
+ * - History keeps the last todo.history.retention versions; older ones are dropped on each write.
+ */
 @Service
 public class TodoService {
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-uuuu")
-            .withResolverStyle(ResolverStyle.STRICT);
+    private final int retention;
+    private final ConcurrentSkipListMap<Long, TodoSnapshot> history = new ConcurrentSkipListMap<>();
+    private volatile TodoSnapshot current = TodoSnapshot.EMPTY;
 
-    private final List<TodoItem> items = new ArrayList<>();
-    private final AtomicInteger idGenerator = new AtomicInteger(1);
+    public TodoService(@Value("${todo.history.retention:100}") int retention) {
+        if (retention < 1) throw new IllegalArgumentException("todo.history.retention must be at least 1.");
+        this.retention = retention;
+        history.put(current.getVersion(), current);
+    }
 
     private boolean isValidDate(String dateStr) {
-        try {
-            LocalDate.parse(dateStr, DATE_FORMAT);
-            return true;
-        } catch (DateTimeParseException ex) {
-            return false;
-        }
+        return InputParser.isValidDeadline(dateStr);
     }
 
     // add
@@ -34,57 +36,127 @@ public class TodoService {
             throw new IllegalArgumentException("Task name cannot be empty.");
         if (!isValidDate(deadline))
             throw new IllegalArgumentException("Invalid deadline. Use DD-MM-YYYY and a real date.");
-        int id = idGenerator.getAndIncrement();
-        TodoItem t = new TodoItem(id, name.trim(), deadline.trim(), false);
-        items.add(t);
+        TodoSnapshot s = current;
+        long version = s.getVersion() + 1;
+        int id = s.byId().size() + 1; // ids are never reused, so slot id-1 is always the next append
+        TodoItem t = new TodoItem(id, name.trim(), deadline.trim(), false, version);
+        publish(new TodoSnapshot(version, s.order().append(id), s.byId().append(t)));
         return t;
     }
 
+    // batch add: validates everything first, then publishes a single version
+    public synchronized List<TodoItem> addAll(List<CreateTodoRequest> requests) {
+        for (CreateTodoRequest r : requests) {
+            if (r.getName() == null || r.getName().trim().isEmpty())
+                throw new IllegalArgumentException("Task name cannot be empty.");
+            if (!isValidDate(r.getDeadline()))
+                throw new IllegalArgumentException("Invalid deadline " + r.getDeadline() + ". Use DD-MM-YYYY and a real date.");
+        }
+        TodoSnapshot s = current;
+        long version = s.getVersion() + 1;
+        // append onto the current tries (O(k log n)) so untouched nodes stay shared with older versions
+        PersistentVector<Integer> order = s.order();
+        PersistentVector<TodoItem> byId = s.byId();
+        List<TodoItem> created = new ArrayList<>(requests.size());
+        for (CreateTodoRequest r : requests) {
+            TodoItem t = new TodoItem(byId.size() + 1, r.getName().trim(), r.getDeadline().trim(), false, version);
+            order = order.append(t.getId());
+            byId = byId.append(t);
+            created.add(t);
+        }
+        publish(new TodoSnapshot(version, order, byId));
+        return created;
+    }
+
+    // current snapshot (lock-free)
+    public TodoSnapshot snapshot() {
+        return current;
+    }
+
+    // snapshot as of a past version, null if it is no longer retained
+    public TodoSnapshot snapshotAt(long version) {
+        TodoSnapshot s = current;
+        if (version < 0 || version > s.getVersion())
+            throw new IllegalArgumentException("Unknown version " + version + "; current is " + s.getVersion() + ".");
+        return history.get(version);
+    }
+
     // list
-    public synchronized List<TodoItem> list() {
-        return new ArrayList<>(items);
+    public List<TodoItem> list() {
+        return current.items();
     }
 
     // get single
-    public synchronized TodoItem get(int id) {
-        return items.stream().filter(i -> i.getId() == id).findFirst().orElse(null);
+    public TodoItem get(int id) {
+        return current.get(id);
+    }
+
+    // retained states of one item, oldest first
+    public List<TodoItem> history(int id) {
+        List<TodoItem> out = new ArrayList<>();
+        TodoItem last = null;
+        for (TodoSnapshot s : history.values()) {
+            TodoItem t = s.get(id);
+            if (t != null && t != last) out.add(t);
+            last = t;
+        }
+        return out;
     }
 
     // delete
     public synchronized TodoItem delete(int id) {
-        int idx = indexOf(id);
-        if (idx < 0) return null;
-        return items.remove(idx);
+        TodoSnapshot s = current;
+        TodoItem t = s.get(id);
+        if (t == null) return null;
+        // order keeps the id (items() skips it) until the next sort rebuilds order without it
+        publish(new TodoSnapshot(s.getVersion() + 1, s.order(), s.byId().set(id - 1, null)));
+        return t;
     }
 
     // edit
     public synchronized TodoItem edit(int id, String newName, String newDeadline) {
-        int idx = indexOf(id);
-        if (idx < 0) return null;
-        TodoItem t = items.get(idx);
-        if (newName != null && !newName.trim().isEmpty()) t.setName(newName.trim());
+        TodoSnapshot s = current;
+        TodoItem t = s.get(id);
+        if (t == null) return null;
+        // validate everything before building the new version so a bad deadline cannot half-apply
+        String name = t.getName();
+        String deadline = t.getDeadline();
+        if (newName != null && !newName.trim().isEmpty()) name = newName.trim();
         if (newDeadline != null && !newDeadline.trim().isEmpty()) {
             if (!isValidDate(newDeadline)) throw new IllegalArgumentException("Invalid deadline.");
-            t.setDeadline(newDeadline.trim());
+            deadline = newDeadline.trim();
         }
-        return t;
+        if (name.equals(t.getName()) && deadline.equals(t.getDeadline())) return t;
+        long version = s.getVersion() + 1;
+        TodoItem updated = new TodoItem(id, name, deadline, t.isCompleted(), version);
+        publish(new TodoSnapshot(version, s.order(), s.byId().set(id - 1, updated)));
+        return updated;
     }
 
     // toggle
     public synchronized TodoItem toggle(int id) {
-        int idx = indexOf(id);
-        if (idx < 0) return null;
-        TodoItem t = items.get(idx);
-        t.setCompleted(!t.isCompleted());
-        return t;
+        TodoSnapshot s = current;
+        TodoItem t = s.get(id);
+        if (t == null) return null;
+        long version = s.getVersion() + 1;
+        TodoItem updated = new TodoItem(id, t.getName(), t.getDeadline(), !t.isCompleted(), version);
+        publish(new TodoSnapshot(version, s.order(), s.byId().set(id - 1, updated)));
+        return updated;
     }
 
     // sort options (1..4)
     public synchronized void sortByOption(int option) {
+        TodoSnapshot s = current;
+        List<TodoItem> items = s.items();
         List<Integer> indices = new ArrayList<>();
         for (int i = 0; i < items.size(); i++) indices.add(i);
         switch (option) {
-            case 1 -> indices.sort(Comparator.comparing(i -> LocalDate.parse(items.get(i).getDeadline(), DATE_FORMAT)));
+            case 1 -> {
+                // parse each deadline once up front instead of on every comparison
+                int[] epochDays = new int[items.size()];
+                for (int i = 0; i < epochDays.length; i++) epochDays[i] = InputParser.parseDeadline(items.get(i).getDeadline());
+                indices.sort(Comparator.comparingInt(i -> epochDays[i]));
+            }
             case 2 -> indices.sort((a,b)-> items.get(a).getName().compareToIgnoreCase(items.get(b).getName()));
             case 3 -> indices.sort((a,b)-> items.get(b).getName().compareToIgnoreCase(items.get(a).getName()));
             case 4 -> indices.sort((a,b)-> {
@@ -95,18 +167,15 @@ public class TodoService {
             });
             default -> throw new IllegalArgumentException("Invalid sort option.");
         }
-        reorderByIndices(indices);
-    }
-
-    private void reorderByIndices(List<Integer> indices) {
-        List<TodoItem> copy = new ArrayList<>(items);
-        for (int i = 0; i < indices.size(); i++) {
-            items.set(i, copy.get(indices.get(i)));
-        }
+        List<Integer> order = new ArrayList<>(indices.size());
+        for (int i : indices) order.add(items.get(i).getId());
+        publish(new TodoSnapshot(s.getVersion() + 1, PersistentVector.from(order), s.byId()));
     }
 
-    private int indexOf(int id) {
-        for (int i = 0; i < items.size(); i++) if (items.get(i).getId() == id) return i;
-        return -1;
+    // caller holds the lock
+    private void publish(TodoSnapshot next) {
+        history.put(next.getVersion(), next);
+        current = next;
+        history.headMap(next.getVersion() - retention, true).clear();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package io.yourname.todo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, consistent view of the todo list at one version.
+ * - order holds ids in display order; byId holds the item for id at slot id-1 (null once deleted).
+ * - Deleting only clears the byId slot; the stale id in order is skipped and dropped on the next sort.
+ * - Snapshots share structure with each other, so keeping a window of them is cheap.
+ */
+public final class TodoSnapshot {
+    static final TodoSnapshot EMPTY = new TodoSnapshot(0, PersistentVector.empty(), PersistentVector.empty());
+
+    private final long version;
+    private final PersistentVector<Integer> order;
+    private final PersistentVector<TodoItem> byId;
+
+    TodoSnapshot(long version, PersistentVector<Integer> order, PersistentVector<TodoItem> byId) {
+        this.version = version;
+        this.order = order;
+        this.byId = byId;
+    }
+
+    public long getVersion() { return version; }
+
+    public TodoItem get(int id) {
+        return id < 1 || id > byId.size() ? null : byId.get(id - 1);
+    }
+
+    public List<TodoItem> items() {
+        List<TodoItem> out = new ArrayList<>(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            TodoItem t = byId.get(order.get(i) - 1);
+            if (t != null) out.add(t); // deleted, still listed in order until the next sort
+        }
+        return out;
+    }
+
+    PersistentVector<Integer> order() { return order; }
+    PersistentVector<TodoItem> byId() { return byId; }
+}
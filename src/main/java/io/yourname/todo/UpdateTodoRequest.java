@@ -1,12 +1,11 @@
 package io.yourname.todo;
 
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 /**
  * Update DTO: fields are optional.
  * - If name is provided, it must be non-blank and reasonably sized.
- * - If deadline is provided, it must match DD-MM-YYYY (or be empty/null).
+ * - If deadline is provided, it must be a real DD-MM-YYYY date (or be empty/null).
  */
 public class UpdateTodoRequest {
 
@@ -14,8 +13,8 @@ public class UpdateTodoRequest {
     @Size(min = 1, max = 200, message = "Name must be 1..200 characters when provided")
     private String name;
 
-    // Allow empty or pattern
-    @Pattern(regexp = "^$|\\d{2}-\\d{2}-\\d{4}", message = "Use DD-MM-YYYY or leave empty")
+    // Empty is normalized to null by the setter, which the validator accepts
+    @ValidDeadline(message = "Use DD-MM-YYYY or leave empty")
     private String deadline;
 
     public UpdateTodoRequest() {}
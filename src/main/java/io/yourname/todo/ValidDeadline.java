@@ -0,0 +1,36 @@
+package io.yourname.todo;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Deadline must be a real DD-MM-YYYY date. Null is accepted (pair with @NotBlank when required).
+ * Backed by {@link InputParser} instead of a regex, so invalid input never throws.
+ */
+@Documented
+@Constraint(validatedBy = ValidDeadline.Validator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidDeadline {
+
+    String message() default "Use DD-MM-YYYY and a real date";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<ValidDeadline, String> {
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return value == null || InputParser.isValidDeadline(value);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.yourname.todo;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Static asset handling:
+ * - Serves the build-time .gz copy of an asset when the client accepts gzip (see the antrun step in pom.xml).
+ * - Content-versioned URLs (name-<md5>.ext) get a long-lived Cache-Control; anything else, including
+ *   index.html, is sent with no-cache so a deploy is picked up on the next load.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String STATIC_DIR = "static/";
+    private static final String STATIC = "classpath:/" + STATIC_DIR;
+
+    private final ContentVersionStrategy contentVersion = new ContentVersionStrategy();
+    private final Set<String> validVersionedPaths = ConcurrentHashMap.newKeySet();
+    private final String versionedCacheControl;
+    private final String unversionedCacheControl = CacheControl.noCache().getHeaderValue();
+
+    public WebConfig(@Value("${todo.static.max-age:365d}") Duration maxAge) {
+        this.versionedCacheControl = CacheControl.maxAge(maxAge).cachePublic().immutable().getHeaderValue();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // no cache control on the handler itself: StaticCacheHeaders decides per URL
+        registry.addResourceHandler("/**")
+                .addResourceLocations(STATIC)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StaticCacheHeaders());
+    }
+
+    // true only if the URL carries the md5 of the file it names, so a stale or bogus hash (404) is never cached long
+    private boolean isContentVersioned(String path) {
+        if (validVersionedPaths.contains(path)) return true;
+        String version = contentVersion.extractVersion(path);
+        if (version == null || !version.matches("[0-9a-f]{32}") || path.contains("..")) return false;
+        Resource resource = new ClassPathResource(STATIC_DIR + contentVersion.removeVersion(path, version));
+        if (!resource.isReadable() || !version.equals(contentVersion.getResourceVersion(resource))) return false;
+        validVersionedPaths.add(path); // bounded by the set of assets, unlike the paths clients can send
+        return true;
+    }
+
+    private final class StaticCacheHeaders implements HandlerInterceptor {
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            if (handler instanceof ResourceHttpRequestHandler) {
+                Object path = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+                boolean versioned = path != null && isContentVersioned(path.toString());
+                response.setHeader(HttpHeaders.CACHE_CONTROL, versioned ? versionedCacheControl : unversionedCacheControl);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.yourname.todo;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressionThresholdFilterTest {
+
+    private static final CompressionThresholdFilter FILTER = new CompressionThresholdFilter(true, DataSize.ofBytes(16));
+
+    private static MockHttpServletRequest gzipRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        return request;
+    }
+
+    private static byte[] bytes(int n) {
+        byte[] b = new byte[n];
+        Arrays.fill(b, (byte) 'x');
+        return b;
+    }
+
+    // writes the body in two flushed chunks, like Jackson does
+    private static FilterChain writing(byte[] body) {
+        return (req, res) -> {
+            int half = body.length / 2;
+            res.getOutputStream().write(body, 0, half);
+            res.getOutputStream().flush();
+            res.getOutputStream().write(body, half, body.length - half);
+            res.getOutputStream().flush();
+        };
+    }
+
+    @Test
+    void smallBodyGetsContentLengthDespiteFlushes() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FILTER.doFilter(gzipRequest(), response, writing(bytes(10)));
+        assertEquals("10", response.getHeader("Content-Length"));
+        assertArrayEquals(bytes(10), response.getContentAsByteArray());
+    }
+
+    @Test
+    void largeBodyStreamsWithoutContentLength() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FILTER.doFilter(gzipRequest(), response, writing(bytes(100)));
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(bytes(100), response.getContentAsByteArray());
+    }
+
+    @Test
+    void bufferedBytesSurviveAnException() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain failing = (req, res) -> {
+            res.getOutputStream().write(bytes(5));
+            throw new IOException("boom");
+        };
+        assertThrows(IOException.class, () -> FILTER.doFilter(gzipRequest(), response, failing));
+        assertArrayEquals(bytes(5), response.getContentAsByteArray());
+    }
+
+    @Test
+    void asyncRequestStreamsBufferedBytesWithoutContentLength() throws Exception {
+        MockHttpServletRequest request = gzipRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FILTER.doFilter(request, response, (req, res) -> {
+            res.getOutputStream().write(bytes(5));
+            req.startAsync();
+        });
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(bytes(5), response.getContentAsByteArray());
+    }
+
+    @Test
+    void disabledCompressionLeavesResponseUnwrapped() throws Exception {
+        CompressionThresholdFilter disabled = new CompressionThresholdFilter(false, DataSize.ofBytes(16));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        disabled.doFilter(gzipRequest(), response, chain);
+        assertSame(response, chain.getResponse());
+    }
+}
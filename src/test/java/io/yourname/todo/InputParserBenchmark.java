@@ -0,0 +1,74 @@
+package io.yourname.todo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.function.Predicate;
+
+/**
+ * Exception-based parsing vs InputParser on valid and invalid input.
+ * Skipped by default; run with: mvn test -Dbenchmark=true -Dtest=InputParserBenchmark
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InputParserBenchmark {
+
+    private static final DateTimeFormatter STRICT = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final int OPS = 200_000;
+    private static final int ROUNDS = 5;
+
+    private static volatile int sink; // keeps the JIT from dropping the measured loop
+
+    private static final String[] VALID = {"01-01-2025", "29-02-2024", "31-12-1999", "15-06-2030"};
+    private static final String[] INVALID = {"31-02-2025", "1-1-2025", "aa-bb-cccc", "29-02-2023"};
+    private static final String[] BAD_INTS = {"x1", "12a", "", "99999999999"};
+
+    @Test
+    void deadlinesAndConsoleNumbers() {
+        compare("valid deadline", VALID, InputParserBenchmark::localDate, InputParser::isValidDeadline);
+        compare("invalid deadline", INVALID, InputParserBenchmark::localDate, InputParser::isValidDeadline);
+        compare("bad console int", BAD_INTS, InputParserBenchmark::integerParseInt,
+                s -> InputParser.parseInt(s) != InputParser.NOT_A_NUMBER);
+    }
+
+    private static void compare(String label, String[] inputs, Predicate<String> baseline, Predicate<String> parser) {
+        double base = bestNsPerOp(inputs, baseline);
+        double fast = bestNsPerOp(inputs, parser);
+        System.out.printf("%-17s exception-based %8.1f ns/op | InputParser %6.1f ns/op%n", label, base, fast);
+    }
+
+    // best of ROUNDS, after the first rounds have warmed up the JIT
+    private static double bestNsPerOp(String[] inputs, Predicate<String> p) {
+        double best = Double.MAX_VALUE;
+        int hits = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < OPS; i++) if (p.test(inputs[i & 3])) hits++;
+            best = Math.min(best, (System.nanoTime() - start) / (double) OPS);
+        }
+        sink = hits;
+        return best;
+    }
+
+    private static boolean localDate(String s) {
+        try {
+            LocalDate.parse(s, STRICT);
+            return true;
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    private static boolean integerParseInt(String s) {
+        try {
+            Integer.parseInt(s);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.yourname.todo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class InputParserTest {
+
+    private static final DateTimeFormatter STRICT = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    // every DD-MM-YYYY string with day 00..32, month 00..13, year 0000..9999
+    @Test
+    void parseDeadlineMatchesStrictLocalDateForEveryFourDigitYear() {
+        char[] c = "00-00-0000".toCharArray();
+        for (int year = 0; year <= 9999; year++) {
+            c[6] = (char) ('0' + year / 1000);
+            c[7] = (char) ('0' + year / 100 % 10);
+            c[8] = (char) ('0' + year / 10 % 10);
+            c[9] = (char) ('0' + year % 10);
+            for (int month = 0; month <= 13; month++) {
+                c[3] = (char) ('0' + month / 10);
+                c[4] = (char) ('0' + month % 10);
+                for (int day = 0; day <= 32; day++) {
+                    c[0] = (char) ('0' + day / 10);
+                    c[1] = (char) ('0' + day % 10);
+                    String s = new String(c);
+                    int actual = InputParser.parseDeadline(s);
+                    Integer expected = null;
+                    try {
+                        expected = (int) LocalDate.parse(s, STRICT).toEpochDay();
+                    } catch (DateTimeParseException ex) {
+                        // expected stays null
+                    }
+                    if (expected == null ? !InputParser.isError(actual) : expected != actual) {
+                        fail(s + ": expected " + expected + " but was " + actual);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void parseDeadlineDistinguishesBadShapeFromImpossibleDate() {
+        assertEquals(InputParser.INVALID_DATE, InputParser.parseDeadline("31-02-2025"));
+        assertEquals(InputParser.INVALID_DATE, InputParser.parseDeadline("29-02-1900"));
+        assertEquals(InputParser.INVALID_DATE, InputParser.parseDeadline("00-01-2025"));
+        for (String s : new String[]{null, "", "1-01-2025", "01/01/2025", "aa-01-2025", "01-01-20250", " 01-01-2025"}) {
+            assertEquals(InputParser.INVALID_FORMAT, InputParser.parseDeadline(s), String.valueOf(s));
+        }
+        assertTrue(InputParser.isValidDeadline("29-02-2000"));
+    }
+
+    @Test
+    void parseIntMatchesIntegerParseInt() {
+        String[] inputs = {"0", "1", "-1", "+7", "42", "007", "00000000001", "-00000000001", "0000000000000",
+                "2147483647", "-2147483648", "02147483647",
+                "2147483648", "-2147483649", "99999999999", "", "-", "+", "12a", " 1", "1 ", "--1", "1.0"};
+        for (String s : inputs) {
+            Long expected;
+            try {
+                expected = (long) Integer.parseInt(s);
+            } catch (NumberFormatException ex) {
+                expected = InputParser.NOT_A_NUMBER;
+            }
+            assertEquals(expected, InputParser.parseInt(s), "\"" + s + "\"");
+        }
+        assertEquals(InputParser.NOT_A_NUMBER, InputParser.parseInt(null));
+    }
+}
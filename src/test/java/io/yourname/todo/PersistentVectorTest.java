@@ -0,0 +1,75 @@
+package io.yourname.todo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersistentVectorTest {
+
+    private static List<Integer> range(int n) {
+        List<Integer> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(i);
+        return out;
+    }
+
+    // 32 fills the root leaf, 1024 fills a two-level trie; append must grow past both
+    @Test
+    void appendAcrossLeafAndLevelBoundaries() {
+        PersistentVector<Integer> v = PersistentVector.empty();
+        for (int i = 0; i < 1024 + 33; i++) {
+            v = v.append(i);
+            assertEquals(i + 1, v.size());
+            assertEquals(i, v.get(i));
+        }
+        assertEquals(range(1024 + 33), v.toList());
+    }
+
+    @Test
+    void fromMatchesAppendAroundBoundaries() {
+        for (int n : new int[]{0, 1, 31, 32, 33, 1023, 1024, 1025, 32 * 1024 + 1}) {
+            PersistentVector<Integer> v = PersistentVector.from(range(n));
+            assertEquals(range(n), v.toList(), "n=" + n);
+            // appending after a bulk build must land in the right slot too
+            v = v.append(-1);
+            assertEquals(-1, v.get(n), "append after from, n=" + n);
+        }
+    }
+
+    @Test
+    void setAcrossBoundaries() {
+        PersistentVector<Integer> v = PersistentVector.from(range(1025));
+        for (int i : new int[]{0, 31, 32, 33, 1023, 1024}) {
+            v = v.set(i, -i - 1);
+            assertEquals(-i - 1, v.get(i));
+        }
+        assertEquals(1025, v.size());
+    }
+
+    @Test
+    void olderVersionsAreUnchangedByLaterWrites() {
+        PersistentVector<Integer> v1 = PersistentVector.from(range(1024));
+        PersistentVector<Integer> v2 = v1.set(500, -1);
+        PersistentVector<Integer> v3 = v2.append(1024); // grows a level
+        PersistentVector<Integer> v4 = v3.set(1024, -2);
+
+        assertEquals(range(1024), v1.toList());
+        assertEquals(-1, v2.get(500));
+        assertEquals(1024, v2.size());
+        assertEquals(1024, v3.get(1024));
+        assertEquals(-2, v4.get(1024));
+        // untouched slots are shared, not copied
+        assertSame(v1.get(10), v4.get(10));
+    }
+
+    @Test
+    void outOfRangeIsRejected() {
+        PersistentVector<Integer> v = PersistentVector.from(range(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> v.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> v.set(-1, 0));
+    }
+}
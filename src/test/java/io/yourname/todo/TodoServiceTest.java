@@ -0,0 +1,125 @@
+package io.yourname.todo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TodoServiceTest {
+
+    private static List<String> names(List<TodoItem> items) {
+        return items.stream().map(TodoItem::getName).toList();
+    }
+
+    @Test
+    void snapshotsStayUnchangedAfterLaterWrites() {
+        TodoService service = new TodoService(100);
+        service.add("a", "02-01-2025");
+        service.add("b", "01-01-2025");
+        TodoSnapshot before = service.snapshot();
+
+        service.edit(1, "a2", null);
+        service.toggle(2);
+        service.delete(1);
+        service.sortByOption(1);
+
+        assertEquals(List.of("a", "b"), names(before.items()));
+        assertEquals(false, before.get(2).isCompleted());
+        assertEquals(List.of("b"), names(service.list()));
+        assertEquals(true, service.get(2).isCompleted());
+    }
+
+    @Test
+    void deleteHidesItemAndSortDropsItFromOrder() {
+        TodoService service = new TodoService(100);
+        service.add("a", "03-01-2025");
+        service.add("b", "02-01-2025");
+        service.add("c", "01-01-2025");
+
+        assertNotNull(service.delete(2));
+        assertNull(service.delete(2));
+        assertNull(service.get(2));
+        assertEquals(List.of("a", "c"), names(service.list()));
+
+        service.sortByOption(1);
+        assertEquals(List.of("c", "a"), names(service.list()));
+        assertEquals(2, service.snapshot().order().size());
+    }
+
+    @Test
+    void historyListsEachRetainedStateOfAnItem() {
+        TodoService service = new TodoService(100);
+        service.add("a", "01-01-2025");
+        service.add("other", "01-01-2025");
+        service.toggle(1);
+        service.edit(1, "renamed", null);
+
+        List<TodoItem> history = service.history(1);
+        assertEquals(List.of("a", "a", "renamed"), names(history));
+        assertEquals(List.of(1L, 3L, 4L), history.stream().map(TodoItem::getVersion).toList());
+    }
+
+    @Test
+    void retentionKeepsOnlyTheLastVersions() {
+        TodoService service = new TodoService(3);
+        for (int i = 0; i < 5; i++) service.add("t" + i, "01-01-2025");
+        // versions 3, 4, 5 retained; 0..2 pruned
+        assertNull(service.snapshotAt(2));
+        assertEquals(3, service.snapshotAt(3).getVersion());
+        assertEquals(List.of("t0", "t1", "t2"), names(service.snapshotAt(3).items()));
+        assertEquals(5, service.snapshotAt(5).getVersion());
+        assertThrows(IllegalArgumentException.class, () -> service.snapshotAt(6));
+        assertThrows(IllegalArgumentException.class, () -> service.snapshotAt(-1));
+    }
+
+    @Test
+    void asOfMapsRetentionEdgeToGoneAndFutureToBadRequest() throws Exception {
+        TodoService service = new TodoService(2);
+        for (int i = 0; i < 4; i++) service.add("t" + i, "01-01-2025");
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new TodoController(service))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mvc.perform(get("/api/todos").param("asOf", "2")).andExpect(status().isGone());
+        mvc.perform(get("/api/todos").param("asOf", "3"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TodoController.VERSION_HEADER, "3"));
+        mvc.perform(get("/api/todos").param("asOf", "4")).andExpect(status().isOk());
+        mvc.perform(get("/api/todos").param("asOf", "5")).andExpect(status().isBadRequest());
+        mvc.perform(get("/api/todos").param("asOf", "abc")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchAddPublishesOneVersionAndSharesUntouchedItems() {
+        TodoService service = new TodoService(100);
+        TodoItem first = service.add("a", "01-01-2025");
+        TodoSnapshot before = service.snapshot();
+
+        List<TodoItem> created = service.addAll(List.of(request("b", "02-01-2025"), request("c", "03-01-2025")));
+
+        assertEquals(List.of(2, 3), created.stream().map(TodoItem::getId).toList());
+        assertEquals(before.getVersion() + 1, service.snapshot().getVersion());
+        assertEquals(List.of("a", "b", "c"), names(service.list()));
+        assertEquals(List.of("a"), names(before.items()));
+        assertSame(first, service.get(1));
+        assertThrows(IllegalArgumentException.class, () -> service.addAll(List.of(request("d", "31-02-2025"))));
+        assertEquals(3, service.list().size());
+    }
+
+    private static CreateTodoRequest request(String name, String deadline) {
+        CreateTodoRequest r = new CreateTodoRequest();
+        r.setName(name);
+        r.setDeadline(deadline);
+        return r;
+    }
+}
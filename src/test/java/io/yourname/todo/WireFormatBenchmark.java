@@ -0,0 +1,64 @@
+package io.yourname.todo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JSON vs Smile at 100K items: payload size, list encode and batch decode time.
+ * Skipped by default; run with: mvn test -Dbenchmark=true -Dtest=WireFormatBenchmark
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WireFormatBenchmark {
+
+    private static final int ITEMS = 100_000;
+    private static final int ROUNDS = 15;
+
+    @Test
+    void jsonVersusSmileAt100kItems() throws Exception {
+        List<TodoItem> items = new ArrayList<>(ITEMS);
+        List<CreateTodoRequest> requests = new ArrayList<>(ITEMS);
+        Random random = new Random(1);
+        for (int i = 1; i <= ITEMS; i++) {
+            String deadline = String.format("%02d-%02d-2025", 1 + random.nextInt(28), 1 + random.nextInt(12));
+            items.add(new TodoItem(i, "Task number " + i + " buy milk", deadline, random.nextBoolean(), i));
+            CreateTodoRequest r = new CreateTodoRequest();
+            r.setName("Task number " + i + " buy milk");
+            r.setDeadline(deadline);
+            requests.add(r);
+        }
+        BatchCreateTodoRequest batch = new BatchCreateTodoRequest();
+        batch.setTodos(requests);
+
+        run("JSON ", new ObjectMapper(), items, batch);
+        run("Smile", new ObjectMapper(new SmileFactory()), items, batch);
+    }
+
+    // best of ROUNDS for each direction
+    private static void run(String label, ObjectMapper mapper, List<TodoItem> items, BatchCreateTodoRequest batch) throws Exception {
+        byte[] list = null;
+        byte[] body = mapper.writeValueAsBytes(batch);
+        long encode = Long.MAX_VALUE;
+        long decode = Long.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            list = mapper.writeValueAsBytes(items);
+            encode = Math.min(encode, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            BatchCreateTodoRequest decoded = mapper.readValue(body, BatchCreateTodoRequest.class);
+            decode = Math.min(decode, System.nanoTime() - start);
+            assertEquals(ITEMS, decoded.getTodos().size());
+        }
+        System.out.printf("%s list %,d bytes, encode %.1f ms (%,.0f items/s) | batch %,d bytes, decode %.1f ms (%,.0f items/s)%n",
+                label, list.length, encode / 1e6, ITEMS / (encode / 1e9),
+                body.length, decode / 1e6, ITEMS / (decode / 1e9));
+    }
+}